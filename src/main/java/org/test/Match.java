@@ -2,21 +2,18 @@ package org.test;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
-@RequiredArgsConstructor
 @Slf4j
 public class Match {
 
-    @NonNull
     @Getter
     private final String homeTeam;
-    @NonNull
     @Getter
     private final String awayTeam;
 
@@ -27,8 +24,29 @@ public class Match {
     @Getter
     private int awayScore = 0;
 
+    /**
+     * Monotonic sequence number used to order matches by start. Unlike the wall-clock start time,
+     * it never ties and does not depend on the clock resolution.
+     */
     @Getter
-    private final LocalDateTime startTime = LocalDateTime.now();
+    private final long startSequence;
+
+    /**
+     * Wall-clock start time, kept for display purposes only.
+     */
+    @Getter
+    private final LocalDateTime startTime;
+
+    public Match(@NonNull String homeTeam, @NonNull String awayTeam) {
+        this(homeTeam, awayTeam, 0L, Clock.systemDefaultZone());
+    }
+
+    public Match(@NonNull String homeTeam, @NonNull String awayTeam, long startSequence, @NonNull Clock clock) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.startSequence = startSequence;
+        this.startTime = LocalDateTime.now(clock);
+    }
 
     public int getTotalScore() {
         return homeScore + awayScore;
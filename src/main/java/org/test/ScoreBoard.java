@@ -1,12 +1,15 @@
 package org.test;
 
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import java.time.Clock;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
@@ -15,7 +18,25 @@ import static java.util.Objects.nonNull;
 @Slf4j
 public class ScoreBoard {
 
+    private static final Comparator<Match> SUMMARY_ORDER = Comparator.comparingInt(Match::getTotalScore)
+            .thenComparingLong(Match::getStartSequence).reversed();
+
     private final Map<String, Match> matches = new ConcurrentHashMap<>();
+    private final AtomicLong startSequence = new AtomicLong();
+    private final Clock clock;
+
+    public ScoreBoard() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a scoreboard that takes match start times from the given clock.
+     *
+     * @param clock clock used to stamp the start time of new matches.
+     */
+    public ScoreBoard(@NonNull Clock clock) {
+        this.clock = clock;
+    }
 
     /**
      * Starts a new match between the given teams.
@@ -27,7 +48,7 @@ public class ScoreBoard {
     public void startMatch(String homeTeam, String awayTeam) {
         validateTeamNames(homeTeam, awayTeam);
         String key = generateKey(homeTeam, awayTeam);
-        Match match = matches.putIfAbsent(key, new Match(homeTeam, awayTeam));
+        Match match = matches.putIfAbsent(key, new Match(homeTeam, awayTeam, startSequence.incrementAndGet(), clock));
         if (nonNull(match)) {
             log.warn("Attempt to start a match between {} and {} that is already in progress.", homeTeam, awayTeam);
             throw new IllegalArgumentException("Match between these teams is already in progress.");
@@ -85,10 +106,8 @@ public class ScoreBoard {
      * @return list of matches in the required order.
      */
     public List<Match> getSummary() {
-        Comparator<Match> comparator = Comparator.comparingInt(Match::getTotalScore)
-                .thenComparing(Match::getStartTime).reversed();
         List<Match> summary = matches.values().stream()
-                .sorted(comparator)
+                .sorted(SUMMARY_ORDER)
                 .collect(Collectors.toList());
         log.info("Generated summary of all matches in progress. Total matches: {}", summary.size());
         return summary;
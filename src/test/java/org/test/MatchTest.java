@@ -2,7 +2,10 @@ package org.test;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -134,14 +137,14 @@ class MatchTest {
     @Test
     public void shouldSetStartTimeAtCreation() {
         // Given
-        LocalDateTime beforeCreation = LocalDateTime.now();
+        Clock clock = Clock.fixed(Instant.parse("2024-06-14T19:00:00Z"), ZoneOffset.UTC);
 
         // When
-        Match match = new Match("Poland", "Germany");
+        Match match = new Match("Poland", "Germany", 7L, clock);
 
         // Then
-        assertThat(match.getStartTime()).isAfterOrEqualTo(beforeCreation);
-        assertThat(match.getStartTime()).isBeforeOrEqualTo(LocalDateTime.now());
+        assertThat(match.getStartTime()).isEqualTo(LocalDateTime.of(2024, 6, 14, 19, 0));
+        assertThat(match.getStartSequence()).isEqualTo(7L);
     }
 
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package org.test;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -163,6 +166,28 @@ public class ScoreBoardTest {
         assertThat(summary.get(2).getAwayTeam()).isEqualTo("Germany");
     }
 
+    @Test
+    public void shouldOrderMatchesStartedAtSameTimeByRecency() {
+        // Given
+        Clock clock = Clock.fixed(Instant.parse("2024-06-14T19:00:00Z"), ZoneOffset.UTC);
+        ScoreBoard scoreBoard = new ScoreBoard(clock);
+
+        scoreBoard.startMatch("Poland", "Germany");
+        scoreBoard.startMatch("Spain", "Brazil");
+        scoreBoard.startMatch("Argentina", "Australia");
+
+        // When
+        List<Match> summary = scoreBoard.getSummary();
+
+        // Then
+        assertThat(summary).hasSize(3);
+        assertThat(summary).extracting(Match::getStartTime).containsOnly(summary.get(0).getStartTime());
+
+        assertThat(summary.get(0).getHomeTeam()).isEqualTo("Argentina");
+        assertThat(summary.get(1).getHomeTeam()).isEqualTo("Spain");
+        assertThat(summary.get(2).getHomeTeam()).isEqualTo("Poland");
+    }
+
     @Test
     public void shouldNotStartDuplicateMatch() {
         // Given